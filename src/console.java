@@ -9,7 +9,10 @@ import java.awt.event.*;
 import java.awt.image.*;
 import java.io.*;
 import java.lang.reflect.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.*;
@@ -237,6 +240,23 @@ public final class Console {
         public synchronized int getActiveInputLength() {return inputActive ? activeInputLine.length() - 4 : 0;}
         public boolean isInputActive() {return inputActive;}
         public synchronized int getLineCount() {return lines.size();}
+
+        // appendLines adds at the end (or in front of the input line), endInput overwrites
+        // lines[size-1]. So only indices >= lineCount-1 ever change after a snapshot, and
+        // keeping the count plus that last line is a full snapshot. Keep it that way.
+        public record Snapshot(int lineCount, String tail) {}
+
+        public synchronized Snapshot snapshot() {
+            var count = lines.size();
+            return new Snapshot(count, count == 0 ? null : getLine(count - 1));
+        }
+
+        // bulk read for the exporters, one lock per chunk instead of one per line
+        public synchronized int readLines(Snapshot s, int from, String[] dst) {
+            var n = Math.max(0, Math.min(dst.length, s.lineCount() - from));
+            for (var i = 0; i < n; i++) dst[i] = (from + i == s.lineCount() - 1) ? s.tail() : lines.get(from + i);
+            return n;
+        }
     }
 
     /**
@@ -315,26 +335,57 @@ public final class Console {
                     KeyEvent.VK_C,Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx()), "copy");
 
             actionMap.put("copy", new AbstractAction(){public void actionPerformed(ActionEvent e){
-                if(selectionStart == null || selectionEnd == null) return; // handle null cases just in case
-                Point start = getOrderedStart(),
-                      end = getOrderedEnd();
-                var sb = new StringBuilder();
-
-                for(var line = start.y; line <= end.y; line++){
-                    String lineText = model.getLine(line);
-                    if(lineText == null) continue;
-                    int lineStartCol = (line==start.y) ? start.x:0;
-                    int lineEndCol = (line == end.y) ? end.x:lineText.length();
-                    if(lineEndCol > lineText.length()) lineEndCol = lineText.length();
-                    if(lineStartCol < lineEndCol) sb.append(lineText, lineStartCol, lineEndCol);
-                    if(line < end.y) sb.append('\n');
-                }
+                var export = selectionExport();
+                if(export == null) return; // handle null cases just in case
+
+                // Build the text on a virtual thread first and only hand over a finished String.
+                // A lazy Transferable isn't lazy anywhere: macOS/Windows render inside setContents
+                // (synchronized, so it would pin the carrier and hold the clipboard lock), and X11
+                // hops over to the EDT to render when another app pastes.
+                var clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+                vt.execute(() -> {
+                    try {
+                        var selection = new StringSelection(export.materialize());
+                        clipboard.setContents(selection, selection); // the clipboard lets it go on lostOwnership
+                    } catch (IOException | RuntimeException ex) {Console.error(ex);} // clipboard busy, or the build broke
+                });
+            }});
 
-                // set the clipboard
-                Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(sb.toString()),null);
+            inputMap.put(KeyStroke.getKeyStroke(
+                    KeyEvent.VK_S,Toolkit.getDefaultToolkit().getMenuShortcutKeyMaskEx()), "save");
+
+            actionMap.put("save", new AbstractAction(){public void actionPerformed(ActionEvent e){
+                var export = selectionExport();
+                if(export == null) export = new ConsoleExport(model, model.snapshot(), 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+                var chooser = new JFileChooser();
+                chooser.setSelectedFile(new File("console.txt"));
+                if(chooser.showSaveDialog(ConsoleView.this) != JFileChooser.APPROVE_OPTION) return;
+                var file = chooser.getSelectedFile().toPath();
+
+                // the chooser doesn't ask, and we replace it
+                if(Files.exists(file) && JOptionPane.showConfirmDialog(ConsoleView.this,
+                        file.getFileName() + " already exists. Replace it?", "Save",
+                        JOptionPane.YES_NO_OPTION) != JOptionPane.YES_OPTION) return;
+
+                // never on the EDT, 10M lines takes a while even when streamed
+                var job = export;
+                vt.execute(() -> {
+                    try {Console.success("Saved " + job.writeTo(file) + " lines to " + file);}
+                    catch (IOException | RuntimeException ex) {Console.error(ex);} // otherwise it fails silently
+                });
             }});
         }
 
+        // freezes the current selection so the copy/save can run after the user moves on
+        private ConsoleExport selectionExport(){
+            if(selectionStart == null || selectionEnd == null) return null;
+            Point start = getOrderedStart(),
+                  end = getOrderedEnd();
+            if(start.equals(end)) return null; // a plain click, nothing's selected
+            return new ConsoleExport(model, model.snapshot(), start.y, start.x, end.y, end.x);
+        }
+
         public int getLineHeight() {return this.lineHeight;}
         public void repaintForcibly() {revalidate(); repaint();} // we can't use the repaint name, that's patented
 
@@ -532,6 +583,124 @@ public final class Console {
         public boolean getScrollableTracksViewportHeight(){return false;}
     }
 
+    /**
+     * A frozen range of the document that can be walked line by line
+     * off the EDT. Holds no text itself, just the snapshot and the
+     * bounds, so copying 10M lines doesn't cost 10M lines up front.
+     * <p>
+     * Either builds one big String (clipboard needs it) or streams
+     * straight into a file with fixed size buffers.
+     */
+    private static class ConsoleExport {
+        private final ConsoleDocument model;
+        private final ConsoleDocument.Snapshot snapshot;
+        private final int startLine, startCol, endLine, endCol;
+
+        // java's Consumers can't throw, and we're doing IO
+        private interface LineSink {void accept(String text, int from, int to, boolean newline) throws IOException;}
+
+        public ConsoleExport(ConsoleDocument m, ConsoleDocument.Snapshot s, int startLine, int startCol, int endLine, int endCol){
+            this.model = m;
+            this.snapshot = s;
+            this.startLine = startLine;
+            this.startCol = startCol;
+            this.endLine = Math.min(endLine, s.lineCount() - 1); // "everything" means everything in the snapshot
+            this.endCol = endCol;
+        }
+
+        // same slicing the old copy did, just chunked
+        private int forEach(LineSink sink) throws IOException {
+            var chunk = new String[4096];
+            var count = 0;
+            for(var line = startLine; line <= endLine;){
+                var n = model.readLines(snapshot, line, chunk);
+                if(n == 0) break;
+                for(var i = 0; i < n && line <= endLine; i++, line++){
+                    var lineText = chunk[i];
+                    if(lineText == null) continue;
+                    int lineStartCol = (line == startLine) ? startCol : 0;
+                    int lineEndCol = (line == endLine) ? Math.min(endCol, lineText.length()) : lineText.length();
+                    sink.accept(lineText, lineStartCol, Math.max(lineStartCol, lineEndCol), line < endLine);
+                    count++;
+                }
+                Arrays.fill(chunk, null); // don't pin old lines
+            }
+            return count;
+        }
+
+        public String materialize() throws IOException {
+            var sb = new StringBuilder();
+            forEach((text, from, to, newline) -> {
+                if(from < to) sb.append(text, from, to);
+                if(newline) sb.append('\n');
+            });
+            return sb.toString();
+        }
+
+        /**
+         * Streams the range into a file as UTF-8. Memory use is the two
+         * encode buffers, no matter how big the range is. Goes through a
+         * temp file so a failed save never leaves the target truncated.
+         *
+         * @return the number of lines written
+         */
+        public int writeTo(Path file) throws IOException {
+            var tmp = Files.createTempFile(file.toAbsolutePath().getParent(), ".console", ".tmp");
+            try {
+                var lines = writeChannel(tmp);
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                return lines;
+            } catch (IOException | RuntimeException e) {
+                try {Files.deleteIfExists(tmp);}
+                catch (IOException suppressed) {e.addSuppressed(suppressed);}
+                throw e;
+            }
+        }
+
+        private int writeChannel(Path file) throws IOException {
+            var encoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            var chars = CharBuffer.allocate(8192);
+            var bytes = ByteBuffer.allocateDirect(32768); // UTF-8 is at most 3 bytes per char, 4 per pair
+
+            try(var channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+                var lines = forEach((text, from, to, newline) -> {
+                    while(from < to){
+                        if(!chars.hasRemaining()) encode(encoder, chars, bytes, channel, false);
+                        var n = Math.min(chars.remaining(), to - from);
+                        text.getChars(from, from + n, chars.array(), chars.position()); // bulk copy, put() goes char by char
+                        chars.position(chars.position() + n);
+                        from += n;
+                    }
+                    if(newline){
+                        if(!chars.hasRemaining()) encode(encoder, chars, bytes, channel, false);
+                        chars.put('\n');
+                    }
+                });
+
+                encode(encoder, chars, bytes, channel, true);
+                while(encoder.flush(bytes).isOverflow()) drain(bytes, channel);
+                drain(bytes, channel);
+                return lines;
+            }
+        }
+
+        // leftovers (half a surrogate pair) stay in chars for the next round
+        private static void encode(CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes,
+                                   FileChannel channel, boolean endOfInput) throws IOException {
+            chars.flip();
+            while(encoder.encode(chars, bytes, endOfInput).isOverflow()) drain(bytes, channel);
+            chars.compact();
+        }
+
+        private static void drain(ByteBuffer bytes, FileChannel channel) throws IOException {
+            bytes.flip();
+            while(bytes.hasRemaining()) channel.write(bytes);
+            bytes.clear();
+        }
+    }
+
     /**
      * A lightweight viewer for displaying the current line number.
      * In 90% conditions, this doesn't add any CPU overhead.